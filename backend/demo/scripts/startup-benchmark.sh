@@ -0,0 +1,73 @@
+#!/usr/bin/env bash
+# Compares startup time and RSS of the default build with the fast-startup build
+# (mvn -Pfast-startup: Spring AOT + AppCDS + lazy init, no DDL at boot).
+#
+# Usage: scripts/startup-benchmark.sh [runs]
+#   APP_ARGS   extra application arguments, e.g. --spring.datasource.url=jdbc:mysql://db:3306/farmerdb
+#   JAVA_OPTS  extra JVM options applied to both variants, e.g. -Xmx512m
+#   MVN        Maven command, defaults to mvn
+#
+# The default profile runs ddl-auto=update, so it needs the database from application.properties
+# (or APP_ARGS). Each run starts the app on a random port and waits for the "Ready to serve" line that
+# DemoApplication logs once every ApplicationReadyEvent listener has finished. "Started DemoApplication"
+# comes earlier, before the synchronous search index rebuild, so it would under-report startup.
+# Records wall-clock time from launch, the time Spring reports for "Started", the JVM uptime at ready
+# and the RSS at that point, then stops the app.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS="${1:-5}"
+MVN="${MVN:-mvn}"
+JAR_NAME="demo-0.0.1-SNAPSHOT.jar"
+WORK_DIR="$(mktemp -d)"
+trap 'rm -rf "$WORK_DIR"' EXIT
+
+echo "Building default jar..."
+"$MVN" -q -B clean package -DskipTests
+mkdir -p "$WORK_DIR/default"
+cp "target/$JAR_NAME" "$WORK_DIR/default/"
+
+echo "Building fast-startup jar (AOT + CDS training run)..."
+"$MVN" -q -B clean package -DskipTests -Pfast-startup
+cp -r target/fast-startup "$WORK_DIR/fast"
+
+# measure <label> <dir> <java args...>
+measure() {
+    local label="$1" dir="$2"
+    shift 2
+    local times=() spring_times=() ready_times=() rss=()
+    for ((i = 1; i <= RUNS; i++)); do
+        local log="$WORK_DIR/$label-$i.log"
+        local start end pid
+        start=$(date +%s%N)
+        (cd "$dir" && exec java ${JAVA_OPTS:-} "$@" -jar "$JAR_NAME" --server.port=0 ${APP_ARGS:-}) > "$log" 2>&1 &
+        pid=$!
+        until grep -q "Ready to serve in" "$log"; do
+            if ! kill -0 "$pid" 2>/dev/null; then
+                echo "$label run $i failed to start, see log:" >&2
+                tail -20 "$log" >&2
+                exit 1
+            fi
+            sleep 0.02
+        done
+        end=$(date +%s%N)
+        times+=($(((end - start) / 1000000)))
+        spring_times+=("$(grep -o "Started DemoApplication in [0-9.]* seconds" "$log" | grep -o "[0-9.]*" | head -1)")
+        ready_times+=("$(grep -o "Ready to serve in [0-9]* ms" "$log" | grep -o "[0-9]*" | head -1)")
+        rss+=($(($(ps -o rss= -p "$pid") / 1024)))
+        kill "$pid"
+        wait "$pid" 2>/dev/null || true
+    done
+    printf "%-13s wall-clock ms: %-30s started s: %-30s ready uptime ms: %-30s RSS MB: %s\n" "$label" \
+        "${times[*]}" "${spring_times[*]}" "${ready_times[*]}" "${rss[*]}"
+    printf "%-13s median wall-clock %s ms, median RSS %s MB\n" "$label" \
+        "$(printf "%s\n" "${times[@]}" | sort -n | sed -n "$(((RUNS + 1) / 2))p")" \
+        "$(printf "%s\n" "${rss[@]}" | sort -n | sed -n "$(((RUNS + 1) / 2))p")"
+}
+
+echo
+echo "Startup over $RUNS runs (java $(java -version 2>&1 | head -1))"
+measure default "$WORK_DIR/default"
+measure fast-startup "$WORK_DIR/fast" \
+    -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true -Dspring.profiles.active=fast-startup
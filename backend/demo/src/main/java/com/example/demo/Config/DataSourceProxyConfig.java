@@ -0,0 +1,90 @@
+package com.example.demo.Config;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.logging.SLF4JLogLevel;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wraps the application DataSource with datasource-proxy. This replaces spring.jpa.show-sql:
+ * statements are logged through SLF4J ({@code sql.query} at DEBUG), slow ones always
+ * ({@code sql.slow} at WARN), and every request gets its {@link SqlStats}.
+ */
+@Configuration
+public class DataSourceProxyConfig {
+
+    private static final String START_NANOS = "startNanos";
+
+    @Bean
+    static BeanPostProcessor dataSourceProxyPostProcessor(
+            @Value("${app.sql.slow-query-threshold-ms:200}") long slowQueryThresholdMs) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new StatsListener())
+                            .methodListener(new StatsListener())
+                            .proxyResultSet()
+                            .logQueryBySlf4j(SLF4JLogLevel.DEBUG, "sql.query")
+                            .logSlowQueryBySlf4j(slowQueryThresholdMs, TimeUnit.MILLISECONDS, SLF4JLogLevel.WARN, "sql.slow")
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    /** Feeds statement executions and result set reads into the current request's {@link SqlStats}. */
+    private static final class StatsListener implements QueryExecutionListener, MethodExecutionListener {
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            execInfo.addCustomValue(START_NANOS, System.nanoTime());
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            SqlStats stats = SqlStats.current();
+            Long start = execInfo.getCustomValue(START_NANOS, Long.class);
+            if (stats != null && start != null) {
+                stats.recordStatement(System.nanoTime() - start);
+            }
+        }
+
+        @Override
+        public void beforeMethod(MethodExecutionContext executionContext) {
+            if (executionContext.getTarget() instanceof ResultSet) {
+                executionContext.addCustomValue(START_NANOS, System.nanoTime());
+            }
+        }
+
+        @Override
+        public void afterMethod(MethodExecutionContext executionContext) {
+            if (!(executionContext.getTarget() instanceof ResultSet)) {
+                return;
+            }
+            SqlStats stats = SqlStats.current();
+            Long start = executionContext.getCustomValue(START_NANOS, Long.class);
+            if (stats != null && start != null) {
+                boolean rowFetched = "next".equals(executionContext.getMethod().getName())
+                        && Boolean.TRUE.equals(executionContext.getResult());
+                stats.recordResultSetCall(System.nanoTime() - start, rowFetched);
+            }
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.example.demo.Config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Admission control for the public endpoints: per-client token buckets plus load shedding
+ * once too many requests are in flight. Rejected requests get 429 with Retry-After.
+ *
+ * Dashboard reads are never rate limited and are only shed at a higher in-flight ceiling,
+ * so logged-in farmers keep working while the model endpoints are being flooded.
+ *
+ * Clients are keyed by {@code getRemoteAddr()}. Behind a load balancer that is only the real
+ * client when forwarded headers are resolved ({@code server.forward-headers-strategy}); without
+ * it every client shares the balancer's bucket.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final int MAX_LOGIN_BODY_BYTES = 4096;
+
+    // RFC 5321 limit; also bounds the memory a per-email bucket key can take
+    private static final int MAX_EMAIL_LENGTH = 254;
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int maxInFlight;
+    private final int priorityMaxInFlight;
+    private final RateLimiter.Limit cropLimit;
+    private final RateLimiter.Limit diseaseLimit;
+    private final RateLimiter.Limit feedbackLimit;
+    private final RateLimiter.Limit loginLimit;
+    private final RateLimiter.Limit loginEmailLimit;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public RateLimitFilter(ObjectMapper objectMapper,
+                           @Value("${app.ratelimit.enabled:true}") boolean enabled,
+                           @Value("${app.ratelimit.max-keys:100000}") int maxKeys,
+                           @Value("${app.ratelimit.max-in-flight:150}") int maxInFlight,
+                           @Value("${app.ratelimit.priority-max-in-flight:190}") int priorityMaxInFlight,
+                           @Value("${app.ratelimit.crop-per-minute:30}") int cropPerMinute,
+                           @Value("${app.ratelimit.disease-per-minute:10}") int diseasePerMinute,
+                           @Value("${app.ratelimit.feedback-per-minute:5}") int feedbackPerMinute,
+                           @Value("${app.ratelimit.login-per-minute:20}") int loginPerMinute,
+                           @Value("${app.ratelimit.login-email-per-minute:5}") int loginEmailPerMinute) {
+        this.rateLimiter = new RateLimiter(maxKeys);
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.maxInFlight = maxInFlight;
+        this.priorityMaxInFlight = priorityMaxInFlight;
+        this.cropLimit = RateLimiter.Limit.perMinute(cropPerMinute);
+        this.diseaseLimit = RateLimiter.Limit.perMinute(diseasePerMinute);
+        this.feedbackLimit = RateLimiter.Limit.perMinute(feedbackPerMinute);
+        this.loginLimit = RateLimiter.Limit.perMinute(loginPerMinute);
+        this.loginEmailLimit = RateLimiter.Limit.perMinute(loginEmailPerMinute);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || "OPTIONS".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        // Decoded, without ";" path parameters and duplicate slashes, i.e. the path Spring MVC routes on
+        String path = UrlPathHelper.defaultInstance.getPathWithinApplication(request);
+        boolean priority = "GET".equals(request.getMethod()) && path.equals("/api/farmer/dashboard");
+
+        int current = inFlight.incrementAndGet();
+        try {
+            if (current > (priority ? priorityMaxInFlight : maxInFlight)) {
+                reject(request, response, TimeUnit.SECONDS.toNanos(1), "Server is busy, please retry");
+                return;
+            }
+
+            HttpServletRequest next = request;
+            if (!priority && "POST".equals(request.getMethod())) {
+                String ip = request.getRemoteAddr();
+                long wait = 0;
+                switch (path) {
+                    case "/api/recommend-crop" -> wait = rateLimiter.tryAcquire("crop:" + ip, cropLimit);
+                    case "/api/disease/detect" -> wait = rateLimiter.tryAcquire("disease:" + ip, diseaseLimit);
+                    case "/api/feedback" -> wait = rateLimiter.tryAcquire("feedback:" + ip, feedbackLimit);
+                    case "/api/farmer/login" -> {
+                        wait = rateLimiter.tryAcquire("login:" + ip, loginLimit);
+                        if (wait == 0) {
+                            // Every login body is inspected; one that cannot be buffered is refused,
+                            // otherwise padding it would skip the per-email bucket
+                            CachedBodyRequest cached = CachedBodyRequest.wrap(request);
+                            if (cached == null) {
+                                writeError(request, response, HttpStatus.PAYLOAD_TOO_LARGE, "Login request is too large");
+                                return;
+                            }
+                            next = cached;
+                            String email = loginEmail(cached.body);
+                            if (email != null) {
+                                wait = rateLimiter.tryAcquire("login-email:" + email, loginEmailLimit);
+                            }
+                        }
+                    }
+                    default -> {
+                    }
+                }
+                if (wait > 0) {
+                    reject(request, response, wait, "Too many requests, please retry later");
+                    return;
+                }
+            }
+
+            chain.doFilter(next, response);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * Normalized email from a login body, or null when there is nothing worth a bucket:
+     * such bodies fail FarmerLoginDto validation anyway and stay covered by the IP bucket.
+     */
+    private String loginEmail(byte[] body) {
+        try {
+            JsonNode node = objectMapper.readTree(body).get("email");
+            if (node == null || !node.isTextual()) {
+                return null;
+            }
+            String email = node.asText().trim().toLowerCase(Locale.ROOT);
+            int at = email.indexOf('@');
+            if (email.length() > MAX_EMAIL_LENGTH || at <= 0 || at != email.lastIndexOf('@')
+                    || at == email.length() - 1 || email.chars().anyMatch(Character::isWhitespace)) {
+                return null;
+            }
+            return email;
+        } catch (IOException e) {
+            // Malformed JSON is rejected by the controller; the IP bucket already applied
+            return null;
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long waitNanos, String message)
+            throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        response.setHeader("Retry-After", Long.toString(retryAfterSeconds));
+        writeError(request, response, HttpStatus.TOO_MANY_REQUESTS, message);
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response, HttpStatus status, String message)
+            throws IOException {
+        // Same shape as GlobalExceptionHandler, which never sees requests rejected here
+        Map<String, Object> error = new HashMap<>();
+        error.put("timestamp", LocalDateTime.now().toString());
+        error.put("status", status.value());
+        error.put("error", status.getReasonPhrase());
+        error.put("message", message);
+        error.put("path", request.getRequestURI());
+
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    /** Buffers a small request body so it can be inspected here and still be read by the controller. */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        /** Returns null if the body is larger than {@link #MAX_LOGIN_BODY_BYTES}, with or without Content-Length. */
+        static CachedBodyRequest wrap(HttpServletRequest request) throws IOException {
+            if (request.getContentLengthLong() > MAX_LOGIN_BODY_BYTES) {
+                return null;
+            }
+            byte[] body = request.getInputStream().readNBytes(MAX_LOGIN_BODY_BYTES + 1);
+            if (body.length > MAX_LOGIN_BODY_BYTES) {
+                return null;
+            }
+            return new CachedBodyRequest(request, body);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // The body is already in memory, so it is all available right away
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    try {
+                        listener.onDataAvailable();
+                        listener.onAllDataRead();
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.demo.Config;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets keyed by client (IP, email, ...), implemented as GCRA: each key keeps a single
+ * "theoretical arrival time" in an {@link AtomicLong} and is updated with CAS, so the hot path
+ * takes no locks. Keys are spread over stripes, each capped at a fixed number of entries.
+ *
+ * A bucket that has refilled completely carries no information, so those keys are evicted
+ * when a stripe is swept. If a stripe is still full after a sweep, new keys share the
+ * stripe's overflow bucket instead of growing the map.
+ */
+public class RateLimiter {
+
+    private static final long SWEEP_INTERVAL_NANOS = Duration.ofSeconds(10).toNanos();
+    // A full stripe sweeps sooner, but not per request, or a flood of new keys turns into O(n) scans
+    private static final long FULL_SWEEP_INTERVAL_NANOS = Duration.ofMillis(100).toNanos();
+
+    private final Stripe[] stripes;
+    private final int maxKeysPerStripe;
+
+    /**
+     * @param permits  bucket size, also the number of requests allowed per {@code period}
+     */
+    public record Limit(int permits, Duration period) {
+
+        public Limit {
+            if (permits <= 0 || period.isZero() || period.isNegative()) {
+                throw new IllegalArgumentException("Rate limit must allow at least one request per positive period");
+            }
+        }
+
+        public static Limit perMinute(int permits) {
+            return new Limit(permits, Duration.ofMinutes(1));
+        }
+
+        long intervalNanos() {
+            return period.toNanos() / permits;
+        }
+    }
+
+    public RateLimiter(int maxKeys) {
+        this(maxKeys, Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    /**
+     * @param stripes  rounded down to a power of two and to at most {@code maxKeys}, so the
+     *                 per-stripe caps never add up to more than {@code maxKeys}
+     */
+    RateLimiter(int maxKeys, int stripes) {
+        if (maxKeys <= 0) {
+            throw new IllegalArgumentException("maxKeys must be positive");
+        }
+        int stripeCount = Integer.highestOneBit(Math.max(1, Math.min(stripes, maxKeys)));
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            this.stripes[i] = new Stripe();
+        }
+        this.maxKeysPerStripe = maxKeys / stripeCount;
+    }
+
+    /**
+     * Takes one token for {@code key}.
+     *
+     * @return 0 if the request is allowed, otherwise the nanoseconds until a token is available
+     */
+    public long tryAcquire(String key, Limit limit) {
+        return tryAcquire(key, limit, System.nanoTime());
+    }
+
+    long tryAcquire(String key, Limit limit, long now) {
+        Stripe stripe = stripes[spread(key.hashCode()) & (stripes.length - 1)];
+        stripe.maybeSweep(now, SWEEP_INTERVAL_NANOS);
+        return acquire(stripe.bucket(key, now), limit, now);
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.buckets.size();
+        }
+        return size;
+    }
+
+    private static long acquire(AtomicLong bucket, Limit limit, long now) {
+        long interval = limit.intervalNanos();
+        long tolerance = limit.period().toNanos() - interval;
+        while (true) {
+            long tat = bucket.get();
+            long start = tat - now > 0 ? tat : now;
+            long wait = start - now - tolerance;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(tat, start + interval)) {
+                return 0;
+            }
+        }
+    }
+
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    private final class Stripe {
+
+        private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+        private final AtomicLong overflow = new AtomicLong(System.nanoTime());
+        private final AtomicLong lastSweep = new AtomicLong(System.nanoTime());
+
+        AtomicLong bucket(String key, long now) {
+            AtomicLong bucket = buckets.get(key);
+            if (bucket != null) {
+                return bucket;
+            }
+            if (buckets.size() >= maxKeysPerStripe) {
+                maybeSweep(now, FULL_SWEEP_INTERVAL_NANOS);
+                if (buckets.size() >= maxKeysPerStripe) {
+                    return overflow;
+                }
+            }
+            // An arrival time of "now" is a full bucket
+            return buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+
+        void maybeSweep(long now, long interval) {
+            long last = lastSweep.get();
+            if (now - last < interval) {
+                return;
+            }
+            if (!lastSweep.compareAndSet(last, now)) {
+                return;
+            }
+            // A request racing with removal may spend its token on the detached bucket;
+            // the next request for that key simply starts with a full bucket again.
+            buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+        }
+    }
+}
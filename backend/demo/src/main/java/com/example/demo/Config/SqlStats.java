@@ -0,0 +1,63 @@
+package com.example.demo.Config;
+
+/**
+ * JDBC activity of one request: statements executed, rows read from result sets and time
+ * spent inside the driver. Collected by the datasource proxy from {@link DataSourceProxyConfig}
+ * and exposed as the {@link #REQUEST_ATTRIBUTE} request attribute by {@link SqlStatsFilter}.
+ *
+ * A request is served by one thread, so the counters are plain fields behind a ThreadLocal.
+ */
+public final class SqlStats {
+
+    public static final String REQUEST_ATTRIBUTE = SqlStats.class.getName();
+
+    private static final ThreadLocal<SqlStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long rowsFetched;
+    private long jdbcNanos;
+
+    static SqlStats begin() {
+        SqlStats stats = new SqlStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /** Stats of the request running on this thread, or null outside a request (startup, background work). */
+    static SqlStats current() {
+        return CURRENT.get();
+    }
+
+    void recordStatement(long nanos) {
+        statements++;
+        jdbcNanos += nanos;
+    }
+
+    void recordResultSetCall(long nanos, boolean rowFetched) {
+        jdbcNanos += nanos;
+        if (rowFetched) {
+            rowsFetched++;
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getRowsFetched() {
+        return rowsFetched;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d statements, %d rows, %.2f ms in JDBC", statements, rowsFetched, jdbcNanos / 1e6);
+    }
+}
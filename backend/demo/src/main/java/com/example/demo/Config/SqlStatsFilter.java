@@ -0,0 +1,38 @@
+package com.example.demo.Config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Opens a {@link SqlStats} scope per request, publishes it as a request attribute and logs
+ * a one-line summary on the {@code sql.request} logger at DEBUG.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class SqlStatsFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger("sql.request");
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlStats stats = SqlStats.begin();
+        request.setAttribute(SqlStats.REQUEST_ATTRIBUTE, stats);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            SqlStats.end();
+            log.debug("{} {} -> {}: {}", request.getMethod(), request.getRequestURI(), response.getStatus(), stats);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.demo.Config;
+
+import com.example.demo.Search.FeedbackSearchIndex;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class StartupConfig {
+
+    /**
+     * Beans created at startup even with {@code spring.main.lazy-initialization=true}
+     * (fast-startup profile): the JPA bootstrap would otherwise land on the first request.
+     */
+    @Bean
+    static LazyInitializationExcludeFilter eagerStartupBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                EntityManagerFactory.class,
+                FeedbackSearchIndex.class,
+                StartupTimingReport.class
+        );
+    }
+}
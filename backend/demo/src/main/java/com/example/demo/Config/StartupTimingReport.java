@@ -0,0 +1,126 @@
+package com.example.demo.Config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes per-bean instantiation times recorded by {@link BufferingApplicationStartup} to the
+ * file named by {@value #REPORT_FILE_PROPERTY}. Recording has to be switched on before the
+ * Spring Environment exists, so {@code DemoApplication} checks {@link #isRequested} itself:
+ * the property counts as a command-line argument, system property or environment variable,
+ * but not from application properties.
+ *
+ * The report is written once all eager singletons exist, which is as far as a CDS training
+ * run with {@code spring.context.exit=onRefresh} gets, and rewritten when the app is ready.
+ */
+@Component
+public class StartupTimingReport implements SmartInitializingSingleton {
+
+    public static final String REPORT_FILE_PROPERTY = "app.startup.report-file";
+
+    private static final Logger log = LoggerFactory.getLogger(StartupTimingReport.class);
+
+    private static final String BEAN_STEP = "spring.beans.instantiate";
+
+    private final ApplicationStartup applicationStartup;
+    private final String reportFile;
+
+    public StartupTimingReport(ApplicationStartup applicationStartup,
+                               @Value("${" + REPORT_FILE_PROPERTY + ":}") String reportFile) {
+        this.applicationStartup = applicationStartup;
+        this.reportFile = reportFile;
+    }
+
+    /** Whether a report file is set anywhere {@code DemoApplication} can see before startup. */
+    public static boolean isRequested(String[] args) {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new SimpleCommandLinePropertySource(args));
+        return StringUtils.hasText(environment.getProperty(REPORT_FILE_PROPERTY));
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!reportFile.isEmpty() && !(applicationStartup instanceof BufferingApplicationStartup)) {
+            log.warn("{} is set but startup steps were not recorded; pass it as a command-line argument, "
+                    + "system property or environment variable instead", REPORT_FILE_PROPERTY);
+        }
+        write("singletons instantiated");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        write("application ready");
+    }
+
+    private void write(String phase) {
+        if (reportFile.isEmpty() || !(applicationStartup instanceof BufferingApplicationStartup buffering)) {
+            return;
+        }
+
+        List<StartupTimeline.TimelineEvent> events = buffering.getBufferedTimeline().getEvents();
+
+        // A bean's duration includes the beans it pulled in; subtract those to get its own cost
+        Map<Long, Long> childNanos = new HashMap<>();
+        for (StartupTimeline.TimelineEvent event : events) {
+            Long parentId = event.getStartupStep().getParentId();
+            if (parentId != null) {
+                childNanos.merge(parentId, event.getDuration().toNanos(), Long::sum);
+            }
+        }
+
+        List<StartupTimeline.TimelineEvent> beans = events.stream()
+                .filter(e -> BEAN_STEP.equals(e.getStartupStep().getName()))
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .toList();
+
+        Path path = Path.of(reportFile);
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8))) {
+                out.printf("# phase: %s, beans: %d%n", phase, beans.size());
+                out.println("total_ms\tself_ms\tbean");
+                for (StartupTimeline.TimelineEvent event : beans) {
+                    long total = event.getDuration().toNanos();
+                    long self = total - childNanos.getOrDefault(event.getStartupStep().getId(), 0L);
+                    out.printf("%.2f\t%.2f\t%s%n", total / 1e6, self / 1e6, beanName(event.getStartupStep()));
+                }
+            }
+            log.info("Startup timing report ({}) written to {}", phase, path.toAbsolutePath());
+        } catch (IOException e) {
+            log.warn("Could not write startup timing report to {}", path, e);
+        }
+    }
+
+    private static String beanName(StartupStep step) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if ("beanName".equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return "?";
+    }
+}
@@ -5,10 +5,13 @@ import com.example.demo.DTO.FarmerDto;
 import com.example.demo.DTO.FarmerLoginDto;
 import com.example.demo.Entity.Farmer;
 import com.example.demo.Service.FarmerServices;
+import com.example.demo.Service.ResourceVersions;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.UUID;
 
@@ -19,6 +22,8 @@ import java.util.UUID;
 public class FarmerController {
 
     private final FarmerServices farmerServices;
+    private final ResourceVersions resourceVersions;
+
     @PostMapping("/signup")
     public ResponseEntity<?> saveFarmer(@Valid @RequestBody FarmerDto farmerDto) {
         Farmer farmer = new Farmer();
@@ -41,9 +46,14 @@ public class FarmerController {
         return ResponseEntity.ok(farmer);
     }
     @GetMapping("/dashboard")
-    public ResponseEntity<?> getDashboard(@RequestParam @Valid String email) {
+    public ResponseEntity<?> getDashboard(@RequestParam @Valid String email, WebRequest webRequest) {
+        // Answer unchanged polls with 304 before touching the database
+        ResourceVersions.Validators validators = resourceVersions.validators(ResourceVersions.Resource.FARMER);
+        if (webRequest.checkNotModified(validators.etag(), validators.lastModified())) {
+            return null;
+        }
         FarmerDashboardDto dto = farmerServices.getDashboard(email);
         System.out.println(dto);
-        return ResponseEntity.ok(dto);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(dto);
     }
 }
\ No newline at end of file
@@ -2,21 +2,34 @@ package com.example.demo.Controller;
 
 import com.example.demo.DTO.FeedbackDto;
 import com.example.demo.Entity.Feedback;
+import com.example.demo.Search.FeedbackSearchIndex;
 import com.example.demo.Service.FeedbackService;
+import com.example.demo.Service.ResourceVersions;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.Map;
 
 @RestController
 @RequestMapping("/api/feedback")
 @RequiredArgsConstructor
 @CrossOrigin(origins = "http://localhost:3000")
+@Validated
 public class FeedbackController {
 
     private final FeedbackService feedbackService;
+    private final ResourceVersions resourceVersions;
 
     @PostMapping
     public ResponseEntity<?> submitFeedback(@Valid @RequestBody FeedbackDto feedbackDto) {
@@ -24,8 +37,39 @@ public class FeedbackController {
         return ResponseEntity.ok(feedback);
     }
     @GetMapping("/analytics")
-    public ResponseEntity<Map<String, Object>> getFeedbackStats() {
+    public ResponseEntity<Map<String, Object>> getFeedbackStats(WebRequest webRequest) {
+        // usersCount makes the analytics depend on farmers as well
+        ResourceVersions.Validators validators = resourceVersions.validators(
+                ResourceVersions.Resource.FEEDBACK, ResourceVersions.Resource.FARMER);
+        if (webRequest.checkNotModified(validators.etag(), validators.lastModified())) {
+            return null;
+        }
         Map<String, Object> stats = feedbackService.getFeedbackStats();
-        return ResponseEntity.ok(stats);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(stats);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<Map<String, Object>> searchFeedback(
+            @RequestParam("q") @NotBlank(message = "Search query is required") String query,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) @Min(value = 1, message = "minRating must be between 1 and 5")
+            @Max(value = 5, message = "minRating must be between 1 and 5") Integer minRating,
+            @RequestParam(required = false) @Min(value = 1, message = "maxRating must be between 1 and 5")
+            @Max(value = 5, message = "maxRating must be between 1 and 5") Integer maxRating,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "0") @Min(value = 0, message = "page must be >= 0") int page,
+            @RequestParam(defaultValue = "20") @Min(value = 1, message = "size must be between 1 and 100")
+            @Max(value = 100, message = "size must be between 1 and 100") int size) {
+
+        FeedbackSearchIndex.Filter filter = new FeedbackSearchIndex.Filter(
+                category,
+                minRating,
+                maxRating,
+                from != null ? from.atStartOfDay() : null,
+                to != null ? to.atTime(LocalTime.MAX) : null
+        );
+        Map<String, Object> results = feedbackService.searchFeedback(query, filter, page, size);
+        return ResponseEntity.ok(results);
     }
 }
\ No newline at end of file
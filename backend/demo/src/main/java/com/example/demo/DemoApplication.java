@@ -1,13 +1,28 @@
 package com.example.demo;
 
+import com.example.demo.Config.StartupTimingReport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+
+import java.lang.management.ManagementFactory;
 
 @SpringBootApplication
 public class DemoApplication {
 
+	private static final Logger log = LoggerFactory.getLogger(DemoApplication.class);
+
 	public static void main(String[] args) {
-		SpringApplication.run(DemoApplication.class, args);
+		SpringApplication application = new SpringApplication(DemoApplication.class);
+		if (StartupTimingReport.isRequested(args)) {
+			application.setApplicationStartup(new BufferingApplicationStartup(20_000));
+		}
+		application.run(args);
+		// run() returns only after every ApplicationReadyEvent listener, e.g. the search index rebuild,
+		// so this line (not "Started DemoApplication") marks when the instance is fully warmed up
+		log.info("Ready to serve in {} ms of JVM uptime", ManagementFactory.getRuntimeMXBean().getUptime());
 	}
 
 }
@@ -6,7 +6,8 @@ import lombok.Data;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "feedback")
+@Table(name = "feedback",
+        indexes = @Index(name = "idx_feedback_created_at_id", columnList = "createdAt, id"))
 @Data
 public class Feedback {
 
@@ -0,0 +1,265 @@
+package com.example.demo.Search;
+
+import com.example.demo.Entity.Feedback;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * In-process inverted index over {@link Feedback#getMessage()}, so support staff can
+ * search messages without a {@code LIKE '%...%'} scan on MySQL.
+ *
+ * Only ids, filter fields and postings are kept in memory; callers load the
+ * full rows for the page they show. Results are ranked with BM25.
+ */
+@Component
+public class FeedbackSearchIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    private final Object rebuildMonitor = new Object();
+
+    private volatile State state = new State();
+
+    // Non-null only while a rebuild is running; adds are replayed onto the new state.
+    private List<Feedback> pendingDuringRebuild;
+
+    public record Filter(String category, Integer minRating, Integer maxRating,
+                         LocalDateTime from, LocalDateTime to) {
+
+        public static final Filter NONE = new Filter(null, null, null, null, null);
+    }
+
+    public record Hit(String feedbackId, float score) {
+    }
+
+    public record Result(int total, List<Hit> hits) {
+    }
+
+    /** Returns false if the feedback was already indexed. */
+    public boolean add(Feedback feedback) {
+        synchronized (rebuildMonitor) {
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(feedback);
+            }
+        }
+        return state.add(feedback);
+    }
+
+    /**
+     * Builds a fresh index from {@code loader} and swaps it in. Searches keep hitting
+     * the old index until the swap; feedback saved meanwhile is carried over.
+     */
+    public void rebuild(Consumer<Consumer<Feedback>> loader) {
+        synchronized (rebuildMonitor) {
+            pendingDuringRebuild = new ArrayList<>();
+        }
+        State fresh = new State();
+        try {
+            loader.accept(fresh::add);
+        } catch (RuntimeException e) {
+            // Pending adds already reached the current state, so it stays usable as-is.
+            synchronized (rebuildMonitor) {
+                pendingDuringRebuild = null;
+            }
+            throw e;
+        }
+        synchronized (rebuildMonitor) {
+            pendingDuringRebuild.forEach(fresh::add);
+            pendingDuringRebuild = null;
+            state = fresh;
+        }
+    }
+
+    public Result search(String text, Filter filter, int page, int size) {
+        return state.search(FeedbackTokenizer.tokenize(text), filter, page, size);
+    }
+
+    public int size() {
+        return state.docCount();
+    }
+
+    /** Rough heap footprint of the index, excluding JVM object headers of the state itself. */
+    public long estimatedBytes() {
+        return state.estimatedBytes();
+    }
+
+    private static long epochSecond(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static final class State {
+
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<String, Postings> terms = new HashMap<>();
+        private final Map<String, Integer> docsByFeedbackId = new HashMap<>();
+        private final Map<String, Integer> categoryOrdinals = new HashMap<>();
+
+        private String[] feedbackIds = new String[1024];
+        private int[] categories = new int[1024];
+        private byte[] ratings = new byte[1024];
+        private long[] createdAt = new long[1024];
+        private int[] docLengths = new int[1024];
+        private int docCount;
+        private long totalLength;
+
+        boolean add(Feedback feedback) {
+            lock.writeLock().lock();
+            try {
+                if (docsByFeedbackId.containsKey(feedback.getId())) {
+                    return false;
+                }
+
+                List<String> tokens = FeedbackTokenizer.tokenize(feedback.getMessage());
+                Map<String, Integer> frequencies = new LinkedHashMap<>();
+                for (String token : tokens) {
+                    frequencies.merge(token, 1, Integer::sum);
+                }
+
+                int doc = docCount;
+                grow(doc + 1);
+                feedbackIds[doc] = feedback.getId();
+                categories[doc] = categoryOrdinals.computeIfAbsent(categoryKey(feedback.getCategory()),
+                        k -> categoryOrdinals.size());
+                ratings[doc] = (byte) feedback.getRating();
+                createdAt[doc] = epochSecond(feedback.getCreatedAt());
+                docLengths[doc] = tokens.size();
+                totalLength += tokens.size();
+
+                frequencies.forEach((term, tf) -> terms.computeIfAbsent(term, t -> new Postings()).add(doc, tf));
+
+                docsByFeedbackId.put(feedback.getId(), doc);
+                docCount++;
+                return true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        int docCount() {
+            lock.readLock().lock();
+            try {
+                return docCount;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        Result search(List<String> queryTerms, Filter filter, int page, int size) {
+            lock.readLock().lock();
+            try {
+                if (queryTerms.isEmpty() || docCount == 0) {
+                    return new Result(0, List.of());
+                }
+
+                int category = -1;
+                if (filter.category() != null) {
+                    Integer ordinal = categoryOrdinals.get(categoryKey(filter.category()));
+                    if (ordinal == null) {
+                        return new Result(0, List.of());
+                    }
+                    category = ordinal;
+                }
+                long from = filter.from() != null ? epochSecond(filter.from()) : Long.MIN_VALUE;
+                long to = filter.to() != null ? epochSecond(filter.to()) : Long.MAX_VALUE;
+                int minRating = filter.minRating() != null ? filter.minRating() : Integer.MIN_VALUE;
+                int maxRating = filter.maxRating() != null ? filter.maxRating() : Integer.MAX_VALUE;
+
+                float avgLength = (float) totalLength / docCount;
+
+                List<Postings> matchedTerms = new ArrayList<>();
+                long candidates = 0;
+                for (String term : queryTerms.stream().distinct().toList()) {
+                    Postings postings = terms.get(term);
+                    if (postings != null) {
+                        matchedTerms.add(postings);
+                        candidates += postings.docFreq();
+                    }
+                }
+                ScoreAccumulator scores = new ScoreAccumulator((int) Math.min(candidates, docCount));
+
+                for (Postings postings : matchedTerms) {
+                    float idf = (float) Math.log(1 + (docCount - postings.docFreq() + 0.5) / (postings.docFreq() + 0.5));
+
+                    Postings.Cursor cursor = postings.cursor();
+                    while (cursor.next()) {
+                        int doc = cursor.doc();
+                        if ((category >= 0 && categories[doc] != category)
+                                || ratings[doc] < minRating || ratings[doc] > maxRating
+                                || createdAt[doc] < from || createdAt[doc] > to) {
+                            continue;
+                        }
+                        float tf = cursor.tf();
+                        float norm = K1 * (1 - B + B * docLengths[doc] / avgLength);
+                        scores.add(doc, idf * tf * (K1 + 1) / (tf + norm));
+                    }
+                }
+
+                // Scores are positive, so their float bits order the same way as the values.
+                // Packing (score, doc) into one long lets a primitive sort rank the matches;
+                // equal scores fall back to the higher doc id, i.e. the more recently indexed one.
+                int matchedCount = scores.size();
+                long[] ranked = new long[matchedCount];
+                for (int i = 0; i < matchedCount; i++) {
+                    ranked[i] = ((long) Float.floatToIntBits(scores.score(i)) << 32) | scores.doc(i);
+                }
+                Arrays.sort(ranked);
+
+                List<Hit> hits = new ArrayList<>();
+                long start = (long) page * size;
+                for (long i = start; i < start + size && i < matchedCount; i++) {
+                    long packed = ranked[(int) (matchedCount - 1 - i)];
+                    int doc = (int) packed;
+                    hits.add(new Hit(feedbackIds[doc], Float.intBitsToFloat((int) (packed >>> 32))));
+                }
+                return new Result(matchedCount, hits);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        long estimatedBytes() {
+            lock.readLock().lock();
+            try {
+                long bytes = 0;
+                for (Map.Entry<String, Postings> entry : terms.entrySet()) {
+                    // HashMap node + key String + Postings object
+                    bytes += 48 + 40 + 2L * entry.getKey().length() + 32 + entry.getValue().sizeInBytes();
+                }
+                // feedbackIds entry + its map node, UUID strings are 36 chars
+                bytes += (long) docCount * (40 + 2 * 36 + 48 + 16);
+                bytes += (long) feedbackIds.length * (8 + 4 + 1 + 8 + 4);
+                return bytes;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private void grow(int required) {
+            if (required <= feedbackIds.length) {
+                return;
+            }
+            int capacity = Math.max(required, feedbackIds.length * 2);
+            feedbackIds = Arrays.copyOf(feedbackIds, capacity);
+            categories = Arrays.copyOf(categories, capacity);
+            ratings = Arrays.copyOf(ratings, capacity);
+            createdAt = Arrays.copyOf(createdAt, capacity);
+            docLengths = Arrays.copyOf(docLengths, capacity);
+        }
+
+        private static String categoryKey(String category) {
+            return category.trim().toLowerCase(Locale.ROOT);
+        }
+    }
+}
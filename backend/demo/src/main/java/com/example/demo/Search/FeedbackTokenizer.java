@@ -0,0 +1,69 @@
+package com.example.demo.Search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Splits feedback text into index terms. Works on code points so Devanagari
+ * matras and the virama stay attached to their word instead of splitting it.
+ */
+final class FeedbackTokenizer {
+
+    private static final int MIN_TOKEN_LENGTH = 2;
+
+    // Only the most frequent function words; crop and pest names must never end up here.
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "but", "by", "for", "from", "has", "have",
+            "in", "is", "it", "its", "of", "on", "or", "so", "that", "the", "this", "to", "was",
+            "were", "with",
+            "का", "की", "के", "को", "में", "है", "हैं", "था", "थी", "थे", "और", "से", "पर",
+            "भी", "यह", "वह", "ने", "तो", "हो"
+    );
+
+    private FeedbackTokenizer() {
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC);
+        StringBuilder current = new StringBuilder();
+        int i = 0;
+        while (i < normalized.length()) {
+            int cp = normalized.codePointAt(i);
+            i += Character.charCount(cp);
+
+            if (isWordPart(cp)) {
+                current.appendCodePoint(Character.toLowerCase(cp));
+            } else {
+                flush(current, tokens);
+            }
+        }
+        flush(current, tokens);
+        return tokens;
+    }
+
+    private static boolean isWordPart(int cp) {
+        if (Character.isLetterOrDigit(cp)) {
+            return true;
+        }
+        int type = Character.getType(cp);
+        return type == Character.NON_SPACING_MARK || type == Character.COMBINING_SPACING_MARK;
+    }
+
+    private static void flush(StringBuilder current, List<String> tokens) {
+        if (current.length() == 0) {
+            return;
+        }
+        String token = current.toString();
+        current.setLength(0);
+        if (token.codePointCount(0, token.length()) >= MIN_TOKEN_LENGTH && !STOP_WORDS.contains(token)) {
+            tokens.add(token);
+        }
+    }
+}
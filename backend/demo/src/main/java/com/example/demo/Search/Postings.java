@@ -0,0 +1,90 @@
+package com.example.demo.Search;
+
+import java.util.Arrays;
+
+/**
+ * Postings list of one term: ascending doc ids with their term frequency,
+ * stored as varint-encoded (docDelta, tf) pairs in a single byte array.
+ * Doc ids are handed out in insertion order, so appends are always in order.
+ */
+final class Postings {
+
+    private byte[] data = new byte[8];
+    private int length;
+    private int lastDoc = -1;
+    private int docFreq;
+
+    void add(int doc, int tf) {
+        if (doc <= lastDoc) {
+            throw new IllegalArgumentException("Doc ids must be appended in ascending order");
+        }
+        ensureCapacity(10);
+        writeVarInt(doc - lastDoc);
+        writeVarInt(tf);
+        lastDoc = doc;
+        docFreq++;
+    }
+
+    int docFreq() {
+        return docFreq;
+    }
+
+    long sizeInBytes() {
+        return data.length;
+    }
+
+    Cursor cursor() {
+        return new Cursor();
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, length + extra));
+        }
+    }
+
+    private void writeVarInt(int value) {
+        while ((value & ~0x7F) != 0) {
+            data[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[length++] = (byte) value;
+    }
+
+    /** Forward-only reader; callers must hold the index read lock while iterating. */
+    final class Cursor {
+
+        private int pos;
+        private int doc = -1;
+        private int tf;
+
+        boolean next() {
+            if (pos >= length) {
+                return false;
+            }
+            doc += readVarInt();
+            tf = readVarInt();
+            return true;
+        }
+
+        int doc() {
+            return doc;
+        }
+
+        int tf() {
+            return tf;
+        }
+
+        private int readVarInt() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[pos++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.demo.Search;
+
+import java.util.Arrays;
+
+/**
+ * Per-query doc id to score map, sized by the postings being scored rather than the
+ * whole index: open addressing over primitive arrays, with the slots of matched docs
+ * kept in insertion order so ranking never walks empty slots.
+ */
+final class ScoreAccumulator {
+
+    private static final int EMPTY = -1;
+
+    private final int[] docs;
+    private final float[] scores;
+    private final int mask;
+
+    private final int[] matchedSlots;
+    private int size;
+
+    /** @param maxDocs upper bound on distinct docs that will be added, e.g. the summed docFreq */
+    ScoreAccumulator(int maxDocs) {
+        // Load factor of at most one half keeps probe chains short
+        int capacity = Integer.highestOneBit(Math.max(1, maxDocs)) << 2;
+        docs = new int[capacity];
+        Arrays.fill(docs, EMPTY);
+        scores = new float[capacity];
+        mask = capacity - 1;
+        matchedSlots = new int[maxDocs];
+    }
+
+    void add(int doc, float score) {
+        // Doc ids are dense and sequential; spread them so neighbours do not cluster
+        int slot = (doc * 0x9E3779B9) & mask;
+        while (docs[slot] != doc) {
+            if (docs[slot] == EMPTY) {
+                docs[slot] = doc;
+                matchedSlots[size++] = slot;
+                break;
+            }
+            slot = (slot + 1) & mask;
+        }
+        scores[slot] += score;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int doc(int i) {
+        return docs[matchedSlots[i]];
+    }
+
+    float score(int i) {
+        return scores[matchedSlots[i]];
+    }
+}
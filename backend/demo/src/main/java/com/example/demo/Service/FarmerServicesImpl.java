@@ -18,6 +18,8 @@ public class FarmerServicesImpl implements FarmerServices {
 
     private final com.example.demo.UserRepository.FarmerRepository farmerRepository;
 
+    private final ResourceVersions resourceVersions;
+
     @Override
     public Farmer saveFarmer(Farmer farmer) {
         // Check if email is already registered
@@ -26,7 +28,9 @@ public class FarmerServicesImpl implements FarmerServices {
             throw new AuthException("Email already registered");
         }
 
-        return farmerRepository.save(farmer);
+        Farmer saved = farmerRepository.save(farmer);
+        resourceVersions.bump(ResourceVersions.Resource.FARMER);
+        return saved;
     }
 
 
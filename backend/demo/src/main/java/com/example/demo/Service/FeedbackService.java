@@ -2,6 +2,7 @@ package com.example.demo.Service;
 
 import com.example.demo.DTO.FeedbackDto;
 import com.example.demo.Entity.Feedback;
+import com.example.demo.Search.FeedbackSearchIndex;
 
 import java.util.Map;
 
@@ -9,4 +10,6 @@ public interface FeedbackService {
     Feedback saveFeedback(FeedbackDto dto);
 
     Map<String, Object> getFeedbackStats();
+
+    Map<String, Object> searchFeedback(String query, FeedbackSearchIndex.Filter filter, int page, int size);
 }
\ No newline at end of file
@@ -1,19 +1,30 @@
 package com.example.demo.Service;
 import com.example.demo.DTO.FeedbackDto;
 import com.example.demo.Entity.Feedback;
+import com.example.demo.Search.FeedbackSearchIndex;
 
 import com.example.demo.Service.FeedbackService;
 
 import com.example.demo.UserRepository.FarmerRepository;
 import com.example.demo.UserRepository.FeedBackRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,6 +35,17 @@ public class FeedbackServiceImpl implements FeedbackService {
 
     private final FarmerRepository farmerRepository;
 
+    private final FeedbackSearchIndex searchIndex;
+
+    private final ResourceVersions resourceVersions;
+
+    private static final int INDEX_BATCH_SIZE = 1000;
+
+    private static final Duration CATCH_UP_OVERLAP = Duration.ofMinutes(1);
+
+    // Newest createdAt read from the database by the rebuild or a catch-up, null while none; guarded by this
+    private LocalDateTime indexedUpTo;
+    private boolean indexRebuilt;
 
 
     @Override
@@ -36,20 +58,105 @@ public class FeedbackServiceImpl implements FeedbackService {
         feedback.setCategory(dto.getCategory());
         feedback.setMessage(dto.getMessage());
         feedback.setCreatedAt(LocalDateTime.now());
-        return feedbackRepository.save(feedback);
+        Feedback saved = feedbackRepository.save(feedback);
+        searchIndex.add(saved);
+        resourceVersions.bump(ResourceVersions.Resource.FEEDBACK);
+        return saved;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuildSearchIndex() {
+        // Oldest first, so index doc ids follow creation time
+        indexedUpTo = null;
+        searchIndex.rebuild(sink -> indexBatches(
+                feedbackRepository.findByOrderByCreatedAtAscIdAsc(Limit.of(INDEX_BATCH_SIZE)), sink));
+        indexRebuilt = true;
+    }
+
+    /**
+     * Picks up feedback saved through other instances, which {@link #saveFeedback} never sees here.
+     * Rescans from a little before the newest row seen, since rows committed late or stamped by
+     * another instance's clock can land behind it; rows already in the index are skipped.
+     */
+    @Scheduled(initialDelayString = "${app.search.catch-up-interval-ms:30000}",
+            fixedDelayString = "${app.search.catch-up-interval-ms:30000}")
+    public synchronized void catchUpSearchIndex() {
+        if (!indexRebuilt) {
+            return;
+        }
+        boolean[] added = {false};
+        List<Feedback> rows = indexedUpTo == null
+                ? feedbackRepository.findByOrderByCreatedAtAscIdAsc(Limit.of(INDEX_BATCH_SIZE))
+                : feedbackRepository.findAfter(indexedUpTo.minus(CATCH_UP_OVERLAP), "", Limit.of(INDEX_BATCH_SIZE));
+        indexBatches(rows, feedback -> added[0] |= searchIndex.add(feedback));
+        if (added[0]) {
+            resourceVersions.bump(ResourceVersions.Resource.FEEDBACK);
+        }
+    }
+
+    // Feeds keyset batches to sink, starting with rows, and remembers the newest row seen
+    private void indexBatches(List<Feedback> rows, Consumer<Feedback> sink) {
+        while (!rows.isEmpty()) {
+            rows.forEach(sink);
+            Feedback last = rows.get(rows.size() - 1);
+            if (indexedUpTo == null || last.getCreatedAt().isAfter(indexedUpTo)) {
+                indexedUpTo = last.getCreatedAt();
+            }
+            if (rows.size() < INDEX_BATCH_SIZE) {
+                break;
+            }
+            rows = feedbackRepository.findAfter(last.getCreatedAt(), last.getId(), Limit.of(INDEX_BATCH_SIZE));
+        }
     }
 
     @Override
-    public Map<String, Object> getFeedbackStats() {
-        List<Feedback> all = feedbackRepository.findAll();
+    public Map<String, Object> searchFeedback(String query, FeedbackSearchIndex.Filter filter, int page, int size) {
+        FeedbackSearchIndex.Result result = searchIndex.search(query, filter, page, size);
+
+        List<String> ids = result.hits().stream().map(FeedbackSearchIndex.Hit::feedbackId).toList();
+        Map<String, Feedback> byId = feedbackRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Feedback::getId, Function.identity()));
+
+        List<Map<String, Object>> results = result.hits().stream()
+                .map(hit -> {
+                    Feedback f = byId.get(hit.feedbackId());
+                    if (f == null) {
+                        return null;
+                    }
+                    Map<String, Object> map = new HashMap<>();
+                    map.put("id", f.getId());
+                    map.put("name", f.getName());
+                    map.put("rating", f.getRating());
+                    map.put("category", f.getCategory());
+                    map.put("message", f.getMessage());
+                    map.put("time", f.getCreatedAt().toString());
+                    map.put("score", hit.score());
+                    return map;
+                })
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
 
-        double avgRating = all.stream()
-                .mapToInt(Feedback::getRating)
-                .average()
-                .orElse(0);
+        Map<String, Object> response = new HashMap<>();
+        response.put("query", query);
+        response.put("page", page);
+        response.put("size", size);
+        response.put("total", result.total());
+        response.put("results", results);
+
+        return response;
+    }
 
-        Map<Integer, Long> ratingDistribution = all.stream()
-                .collect(Collectors.groupingBy(Feedback::getRating, Collectors.counting()));
+    @Override
+    public Map<String, Object> getFeedbackStats() {
+        Map<Integer, Long> ratingDistribution = new HashMap<>();
+        long totalFeedback = 0;
+        long ratingSum = 0;
+        for (FeedBackRepository.RatingCount row : feedbackRepository.countByRating()) {
+            ratingDistribution.put(row.getRating(), row.getCount());
+            totalFeedback += row.getCount();
+            ratingSum += (long) row.getRating() * row.getCount();
+        }
+        double avgRating = totalFeedback > 0 ? (double) ratingSum / totalFeedback : 0;
 
         List<Map<String, Object>> latestFeedback = feedbackRepository
                 .findTop5ByOrderByCreatedAtDesc()
@@ -65,18 +172,17 @@ public class FeedbackServiceImpl implements FeedbackService {
                 .collect(Collectors.toList());
 
 
-        // For simplicity, trendData by day of week
-        Map<String, Long> trendMap = all.stream()
-                .collect(Collectors.groupingBy(
-                        f -> f.getCreatedAt().getDayOfWeek().toString().substring(0,3),
-                        Collectors.counting()
-                ));
+        // trendData by day of week, Monday first
+        Map<DayOfWeek, Long> trendMap = new EnumMap<>(DayOfWeek.class);
+        for (FeedBackRepository.DayOfWeekCount row : feedbackRepository.countByDayOfWeek()) {
+            trendMap.merge(DayOfWeek.SUNDAY.plus(row.getDayOfWeek() - 1), row.getCount(), Long::sum);
+        }
 
         List<Map<String, Object>> trendData = trendMap.entrySet()
                 .stream()
                 .map(e -> {
                     Map<String, Object> map = new HashMap<>();
-                    map.put("date", e.getKey());
+                    map.put("date", e.getKey().toString().substring(0,3));
                     map.put("feedback", e.getValue());
                     return map;
                 })
@@ -85,7 +191,7 @@ public class FeedbackServiceImpl implements FeedbackService {
         long totalUsers =  farmerRepository.count();
 
         Map<String, Object> response = new HashMap<>();
-        response.put("totalFeedback", all.size());
+        response.put("totalFeedback", totalFeedback);
         response.put("avgRating", avgRating);
         response.put("usersCount", totalUsers);
         response.put("ratingDistribution", ratingDistribution);
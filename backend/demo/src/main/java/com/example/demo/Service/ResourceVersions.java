@@ -0,0 +1,62 @@
+package com.example.demo.Service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cheap validators for polled GET endpoints. Services bump a counter on every write, and
+ * controllers turn the counters into an ETag / Last-Modified pair, so an unchanged poll
+ * can be answered with 304 before any service method or query runs.
+ *
+ * Counters only see writes made through this instance. The ETag therefore carries an
+ * instance tag and a time window, which bounds how long another instance can keep
+ * answering 304 for data changed elsewhere.
+ */
+@Component
+public class ResourceVersions {
+
+    public enum Resource { FARMER, FEEDBACK }
+
+    public record Validators(String etag, long lastModified) {
+    }
+
+    private final String instanceTag = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong[] versions = new AtomicLong[Resource.values().length];
+    private final AtomicLong[] modifiedAt = new AtomicLong[Resource.values().length];
+    private final long windowMillis;
+
+    public ResourceVersions(@Value("${app.cache.revalidate-window-seconds:60}") long windowSeconds) {
+        this.windowMillis = windowSeconds * 1000;
+        // Second precision, as in the Last-Modified header
+        long startedAt = System.currentTimeMillis() / 1000 * 1000;
+        for (int i = 0; i < versions.length; i++) {
+            versions[i] = new AtomicLong();
+            modifiedAt[i] = new AtomicLong(startedAt);
+        }
+    }
+
+    public void bump(Resource resource) {
+        versions[resource.ordinal()].incrementAndGet();
+        // Strictly increasing: a second write within the same second must still move Last-Modified,
+        // or a client revalidating with If-Modified-Since alone would keep getting 304
+        modifiedAt[resource.ordinal()].accumulateAndGet(System.currentTimeMillis() / 1000 * 1000,
+                (previous, now) -> Math.max(now, previous + 1000));
+    }
+
+    public Validators validators(Resource... resources) {
+        long now = System.currentTimeMillis();
+        long window = windowMillis > 0 ? now / windowMillis : 0;
+
+        StringBuilder etag = new StringBuilder("W/\"").append(instanceTag);
+        long lastModified = windowMillis > 0 ? window * windowMillis : 0;
+        for (Resource resource : resources) {
+            etag.append('-').append(versions[resource.ordinal()].get());
+            lastModified = Math.max(lastModified, modifiedAt[resource.ordinal()].get());
+        }
+        etag.append('-').append(Long.toString(window, 36)).append('"');
+
+        return new Validators(etag.toString(), lastModified);
+    }
+}
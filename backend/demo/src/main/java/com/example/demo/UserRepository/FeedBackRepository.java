@@ -1,13 +1,45 @@
 package com.example.demo.UserRepository;
 
 import com.example.demo.Entity.Feedback;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface FeedBackRepository  extends JpaRepository<Feedback, String> {
     List<Feedback> findTop5ByOrderByCreatedAtDesc(); // latest 5 feedbacks
 
     List<Feedback> findAll();
-}
 
+    // Analytics aggregates: a handful of rows however much feedback there is
+    @Query("select f.rating as rating, count(f) as count from Feedback f group by f.rating")
+    List<RatingCount> countByRating();
+
+    // Day of week is 1 = Sunday .. 7 = Saturday
+    @Query("select extract(day of week from f.createdAt) as dayOfWeek, count(f) as count"
+            + " from Feedback f group by extract(day of week from f.createdAt)")
+    List<DayOfWeekCount> countByDayOfWeek();
+
+    // Keyset scan in (createdAt, id) order, served by the idx_feedback_created_at_id index
+    List<Feedback> findByOrderByCreatedAtAscIdAsc(Limit limit);
+
+    @Query("select f from Feedback f"
+            + " where f.createdAt > :createdAt or (f.createdAt = :createdAt and f.id > :id)"
+            + " order by f.createdAt, f.id")
+    List<Feedback> findAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") String id, Limit limit);
+
+    interface RatingCount {
+        int getRating();
+
+        long getCount();
+    }
+
+    interface DayOfWeekCount {
+        int getDayOfWeek();
+
+        long getCount();
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.demo.Config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Runs through the real Tomcat, whose RemoteIpValve resolves X-Forwarded-For; MockMvc has no valve.
+ * The test client connects from loopback, which counts as a trusted proxy.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		properties = "app.ratelimit.feedback-per-minute=2")
+class ForwardedClientRateLimitTests {
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Test
+	void clientsBehindAProxyGetTheirOwnBuckets() {
+		assertNotEquals(HttpStatus.TOO_MANY_REQUESTS, submitFeedbackAs("203.0.113.7"));
+		assertNotEquals(HttpStatus.TOO_MANY_REQUESTS, submitFeedbackAs("203.0.113.7"));
+		assertEquals(HttpStatus.TOO_MANY_REQUESTS, submitFeedbackAs("203.0.113.7"));
+
+		assertNotEquals(HttpStatus.TOO_MANY_REQUESTS, submitFeedbackAs("198.51.100.20"));
+	}
+
+	private HttpStatus submitFeedbackAs(String clientIp) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.APPLICATION_JSON);
+		headers.set("X-Forwarded-For", clientIp);
+		String body = """
+				{"name":"Asha","email":"asha@example.com","rating":3,
+				 "category":"Crop","message":"Groundnut leaves turning yellow"}
+				""";
+		return HttpStatus.valueOf(restTemplate.postForEntity("/api/feedback", new HttpEntity<>(body, headers), String.class)
+				.getStatusCode().value());
+	}
+}
@@ -0,0 +1,242 @@
+package com.example.demo.Config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+		"app.ratelimit.feedback-per-minute=2",
+		"app.ratelimit.login-per-minute=2",
+		"app.ratelimit.login-email-per-minute=2"
+})
+@AutoConfigureMockMvc
+class RateLimitFilterTests {
+
+	// Every test uses fresh client addresses, so buckets from other tests never interfere
+	private static final AtomicInteger NEXT_IP = new AtomicInteger(1);
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	void rejectsWithRetryAfterOnceBucketIsEmpty() throws Exception {
+		String ip = newIp();
+		mockMvc.perform(feedback("/api/feedback", ip)).andExpect(notRateLimited());
+		mockMvc.perform(feedback("/api/feedback", ip)).andExpect(notRateLimited());
+
+		mockMvc.perform(feedback("/api/feedback", ip))
+				.andExpect(status().isTooManyRequests())
+				.andExpect(header().string(HttpHeaders.RETRY_AFTER, "30"))
+				.andExpect(jsonPath("$.status").value(429));
+
+		mockMvc.perform(feedback("/api/feedback", newIp())).andExpect(notRateLimited());
+	}
+
+	@Test
+	void pathParametersDoNotBypassTheLimit() throws Exception {
+		String ip = newIp();
+		mockMvc.perform(feedback("/api/feedback;x=1", ip)).andExpect(notRateLimited());
+		mockMvc.perform(feedback("/api/feedback;jsessionid=abc", ip)).andExpect(notRateLimited());
+		mockMvc.perform(feedback("/api/feedback;x=2", ip)).andExpect(status().isTooManyRequests());
+
+		String otherIp = newIp();
+		String email = newEmail();
+		mockMvc.perform(login("/api/farmer/login;x=1", otherIp, email)).andExpect(notRateLimited());
+		mockMvc.perform(login("/api/farmer/login;jsessionid=abc", otherIp, email)).andExpect(notRateLimited());
+		mockMvc.perform(login("/api/farmer/login;x=2", otherIp, email)).andExpect(status().isTooManyRequests());
+	}
+
+	@Test
+	void limitsLoginPerEmailAcrossAddresses() throws Exception {
+		String email = newEmail();
+		mockMvc.perform(login("/api/farmer/login", newIp(), email)).andExpect(notRateLimited());
+		mockMvc.perform(login("/api/farmer/login", newIp(), email.toUpperCase())).andExpect(notRateLimited());
+
+		mockMvc.perform(login("/api/farmer/login", newIp(), email))
+				.andExpect(status().isTooManyRequests())
+				.andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+	}
+
+	@Test
+	void oversizedEmailsGetNoBucketOfTheirOwn() throws Exception {
+		// Would otherwise pin ~4 KB per bucket key; the IP bucket still applies
+		String email = "x".repeat(3000) + "@example.com";
+		for (int i = 0; i < 3; i++) {
+			mockMvc.perform(login("/api/farmer/login", newIp(), email))
+					.andExpect(notRateLimited());
+		}
+
+		String ip = newIp();
+		mockMvc.perform(login("/api/farmer/login", ip, email)).andExpect(notRateLimited());
+		mockMvc.perform(login("/api/farmer/login", ip, email)).andExpect(notRateLimited());
+		mockMvc.perform(login("/api/farmer/login", ip, email)).andExpect(status().isTooManyRequests());
+	}
+
+	@Test
+	void refusesLoginBodiesTooLargeToInspect() throws Exception {
+		String email = newEmail();
+		String padded = "{\"email\":\"" + email + "\",\"password\":\"guess\"" + " ".repeat(5000) + "}";
+
+		mockMvc.perform(post("/api/farmer/login")
+						.with(remoteAddr(newIp()))
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(padded))
+				.andExpect(status().isPayloadTooLarge());
+	}
+
+	@Test
+	void bufferedLoginBodySupportsNonBlockingReads() throws Exception {
+		RateLimitFilter filter = new RateLimitFilter(new ObjectMapper(), true, 1000, 10, 20, 100, 100, 100, 100, 100);
+		MockHttpServletRequest request = request("POST", "/api/farmer/login");
+		request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		byte[] body = "{\"email\":\"asha@example.com\",\"password\":\"guess\"}".getBytes(StandardCharsets.UTF_8);
+		request.setContent(body);
+
+		StringBuilder events = new StringBuilder();
+		filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+			ServletInputStream in = req.getInputStream();
+			in.setReadListener(new ReadListener() {
+				@Override
+				public void onDataAvailable() throws IOException {
+					events.append("data:").append(in.readAllBytes().length);
+				}
+
+				@Override
+				public void onAllDataRead() {
+					events.append(",done");
+				}
+
+				@Override
+				public void onError(Throwable t) {
+					events.append(",error");
+				}
+			});
+		});
+
+		assertEquals("data:" + body.length + ",done", events.toString());
+	}
+
+	@Test
+	void dashboardReadsAreNotRateLimited() throws Exception {
+		String ip = newIp();
+		for (int i = 0; i < 10; i++) {
+			mockMvc.perform(get("/api/farmer/dashboard").param("email", "nobody@example.com").with(remoteAddr(ip)))
+					.andExpect(notRateLimited());
+		}
+	}
+
+	@Test
+	void shedsOrdinaryRequestsBeforeDashboardReads() throws Exception {
+		RateLimitFilter filter = new RateLimitFilter(new ObjectMapper(), true, 1000, 1, 2, 100, 100, 100, 100, 100);
+
+		CountDownLatch entered = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		FilterChain blocking = (req, res) -> {
+			entered.countDown();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		};
+		Thread inFlight = new Thread(() -> {
+			try {
+				filter.doFilter(request("POST", "/api/feedback"), new MockHttpServletResponse(), blocking);
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		inFlight.start();
+		assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+		try {
+			MockHttpServletResponse shed = new MockHttpServletResponse();
+			filter.doFilter(request("POST", "/api/feedback"), shed, (req, res) -> {
+			});
+			assertEquals(429, shed.getStatus());
+			assertEquals("1", shed.getHeader(HttpHeaders.RETRY_AFTER));
+
+			MockHttpServletResponse dashboard = new MockHttpServletResponse();
+			filter.doFilter(request("GET", "/api/farmer/dashboard"), dashboard, (req, res) -> {
+			});
+			assertEquals(200, dashboard.getStatus());
+		} finally {
+			release.countDown();
+			inFlight.join();
+		}
+	}
+
+	private static MockHttpServletRequest request(String method, String uri) {
+		MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+		request.setRemoteAddr("10.1.0.1");
+		return request;
+	}
+
+	private static MockHttpServletRequestBuilder feedback(String uri, String ip) {
+		return post(uri)
+				.with(remoteAddr(ip))
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("""
+						{"name":"Asha","email":"asha@example.com","rating":3,
+						 "category":"Crop","message":"Groundnut leaves turning yellow"}
+						""");
+	}
+
+	private static MockHttpServletRequestBuilder login(String uri, String ip, String email) {
+		return post(uri)
+				.with(remoteAddr(ip))
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("""
+						{"email":"%s","password":"guess"}
+						""".formatted(email));
+	}
+
+	private static RequestPostProcessor remoteAddr(String ip) {
+		return request -> {
+			request.setRemoteAddr(ip);
+			return request;
+		};
+	}
+
+	private static ResultMatcher notRateLimited() {
+		return result -> assertNotEquals(429, result.getResponse().getStatus());
+	}
+
+	private static String newIp() {
+		int n = NEXT_IP.getAndIncrement();
+		return "10." + (n >> 16 & 0xFF) + "." + (n >> 8 & 0xFF) + "." + (n & 0xFF);
+	}
+
+	private static String newEmail() {
+		return "farmer-" + UUID.randomUUID() + "@example.com";
+	}
+}
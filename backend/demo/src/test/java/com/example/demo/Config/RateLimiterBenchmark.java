@@ -0,0 +1,71 @@
+package com.example.demo.Config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-request overhead of {@link RateLimiter} under contention. Skipped in normal builds, run with
+ * {@code mvn test -Dtest=RateLimiterBenchmark -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class RateLimiterBenchmark {
+
+	private static final int OPS_PER_THREAD = 2_000_000;
+
+	@Test
+	void overheadPerRequest() throws InterruptedException {
+		int threads = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+		run("single hot key", threads, 1);
+		run("16 hot keys", threads, 16);
+		run("50k distinct keys", threads, 50_000);
+	}
+
+	private void run(String label, int threads, int keys) throws InterruptedException {
+		RateLimiter limiter = new RateLimiter(100_000);
+		RateLimiter.Limit limit = RateLimiter.Limit.perMinute(1_000_000);
+		String[] keyNames = new String[keys];
+		for (int i = 0; i < keys; i++) {
+			keyNames[i] = "feedback:10.0." + (i >> 8) + "." + (i & 0xFF);
+		}
+
+		for (int round = 0; round < 2; round++) {
+			CountDownLatch start = new CountDownLatch(1);
+			CountDownLatch done = new CountDownLatch(threads);
+			AtomicLong rejected = new AtomicLong();
+			for (int t = 0; t < threads; t++) {
+				new Thread(() -> {
+					ThreadLocalRandom random = ThreadLocalRandom.current();
+					long localRejected = 0;
+					try {
+						start.await();
+						for (int i = 0; i < OPS_PER_THREAD; i++) {
+							if (limiter.tryAcquire(keyNames[random.nextInt(keys)], limit) != 0) {
+								localRejected++;
+							}
+						}
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					rejected.addAndGet(localRejected);
+					done.countDown();
+				}).start();
+			}
+			long t0 = System.nanoTime();
+			start.countDown();
+			done.await();
+			long elapsed = System.nanoTime() - t0;
+
+			if (round == 1) {
+				long ops = (long) threads * OPS_PER_THREAD;
+				System.out.printf("%-20s threads=%d ops=%d  %.1f ns/op per thread, %.1f Mops/s total, rejected=%d, keys held=%d%n",
+						label, threads, ops, (double) elapsed * threads / ops,
+						ops / (elapsed / (double) TimeUnit.SECONDS.toNanos(1)) / 1e6, rejected.get(), limiter.size());
+			}
+		}
+	}
+}
@@ -0,0 +1,59 @@
+package com.example.demo.Config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateLimiterTests {
+
+	@Test
+	void allowsBurstThenRefillsAtRate() {
+		RateLimiter limiter = new RateLimiter(1000);
+		RateLimiter.Limit limit = new RateLimiter.Limit(3, Duration.ofSeconds(3));
+		long now = System.nanoTime();
+
+		for (int i = 0; i < 3; i++) {
+			assertEquals(0, limiter.tryAcquire("ip:1", limit, now));
+		}
+		long wait = limiter.tryAcquire("ip:1", limit, now);
+		assertEquals(TimeUnit.SECONDS.toNanos(1), wait);
+
+		assertEquals(0, limiter.tryAcquire("ip:2", limit, now));
+		assertEquals(0, limiter.tryAcquire("ip:1", limit, now + wait));
+	}
+
+	@Test
+	void evictsIdleKeysToStayBounded() {
+		RateLimiter limiter = new RateLimiter(64, 8);
+		RateLimiter.Limit limit = RateLimiter.Limit.perMinute(10);
+		long now = System.nanoTime();
+
+		for (int i = 0; i < 10_000; i++) {
+			limiter.tryAcquire("ip:" + i, limit, now);
+		}
+		assertTrue(limiter.size() <= 64);
+
+		// Once the buckets have refilled they are dropped on the next sweep
+		long later = now + TimeUnit.MINUTES.toNanos(1);
+		for (int i = 0; i < 10_000; i++) {
+			limiter.tryAcquire("other:" + i, limit, later + TimeUnit.SECONDS.toNanos(11));
+		}
+		assertTrue(limiter.size() <= 64);
+	}
+
+	@Test
+	void moreStripesThanKeysStillRespectsCap() {
+		RateLimiter limiter = new RateLimiter(64, 128);
+		RateLimiter.Limit limit = RateLimiter.Limit.perMinute(10);
+		long now = System.nanoTime();
+
+		for (int i = 0; i < 10_000; i++) {
+			limiter.tryAcquire("ip:" + i, limit, now);
+		}
+		assertTrue(limiter.size() <= 64);
+	}
+}
@@ -0,0 +1,59 @@
+package com.example.demo.Config;
+
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * MockMvc expectations on the JDBC work a request did, e.g.
+ * {@code mockMvc.perform(get("/api/farmer/dashboard")).andExpect(sql().maxStatements(1))}.
+ */
+public final class SqlResultMatchers {
+
+	private SqlResultMatchers() {
+	}
+
+	public static SqlResultMatchers sql() {
+		return new SqlResultMatchers();
+	}
+
+	public static SqlStats stats(MvcResult result) {
+		SqlStats stats = (SqlStats) result.getRequest().getAttribute(SqlStats.REQUEST_ATTRIBUTE);
+		assertNotNull(stats, "No SqlStats recorded; is SqlStatsFilter registered?");
+		return stats;
+	}
+
+	public ResultMatcher noStatements() {
+		return maxStatements(0);
+	}
+
+	public ResultMatcher maxStatements(int max) {
+		return result -> {
+			SqlStats stats = stats(result);
+			assertTrue(stats.getStatements() <= max,
+					() -> describe(result) + " issued " + stats + ", expected at most " + max + " statements");
+		};
+	}
+
+	public ResultMatcher maxRowsFetched(long max) {
+		return result -> {
+			SqlStats stats = stats(result);
+			assertTrue(stats.getRowsFetched() <= max,
+					() -> describe(result) + " fetched " + stats + ", expected at most " + max + " rows");
+		};
+	}
+
+	public ResultMatcher maxJdbcMillis(long max) {
+		return result -> {
+			SqlStats stats = stats(result);
+			assertTrue(stats.getJdbcNanos() <= max * 1_000_000,
+					() -> describe(result) + " spent " + stats + ", expected at most " + max + " ms in JDBC");
+		};
+	}
+
+	private static String describe(MvcResult result) {
+		return result.getRequest().getMethod() + " " + result.getRequest().getRequestURI();
+	}
+}
@@ -0,0 +1,22 @@
+package com.example.demo.Config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StartupTimingReportTests {
+
+	@Test
+	void reportIsRequestedFromCommandLineOrSystemProperty() {
+		assertFalse(StartupTimingReport.isRequested(new String[] {"--server.port=0"}));
+		assertTrue(StartupTimingReport.isRequested(new String[] {"--app.startup.report-file=report.tsv"}));
+
+		System.setProperty(StartupTimingReport.REPORT_FILE_PROPERTY, "report.tsv");
+		try {
+			assertTrue(StartupTimingReport.isRequested(new String[0]));
+		} finally {
+			System.clearProperty(StartupTimingReport.REPORT_FILE_PROPERTY);
+		}
+	}
+}
@@ -0,0 +1,118 @@
+package com.example.demo.Controller;
+
+import com.example.demo.Entity.Farmer;
+import com.example.demo.UserRepository.FarmerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static com.example.demo.Config.SqlResultMatchers.sql;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ConditionalRequestTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private FarmerRepository farmerRepository;
+
+	@BeforeEach
+	void setUp() {
+		if (farmerRepository.findByEmail("ramesh@example.com").isEmpty()) {
+			Farmer farmer = new Farmer();
+			farmer.setId(UUID.randomUUID().toString());
+			farmer.setName("Ramesh");
+			farmer.setEmail("ramesh@example.com");
+			farmer.setPassword("secret");
+			farmer.setLocation("Nashik");
+			farmer.setJoinedDate("2024-06-01");
+			farmer.setPhoneNumber("9876543210");
+			farmer.setFarmSize("4 acres");
+			farmerRepository.save(farmer);
+		}
+	}
+
+	@Test
+	void unchangedDashboardPollIsNotModifiedWithoutSql() throws Exception {
+		String etag = mockMvc.perform(get("/api/farmer/dashboard").param("email", "ramesh@example.com"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		assertNotNull(etag);
+
+		mockMvc.perform(get("/api/farmer/dashboard").param("email", "ramesh@example.com")
+						.header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified())
+				.andExpect(content().string(""))
+				.andExpect(sql().noStatements());
+	}
+
+	@Test
+	void unchangedAnalyticsPollIsNotModifiedWithoutSql() throws Exception {
+		String etag = mockMvc.perform(get("/api/feedback/analytics"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		mockMvc.perform(get("/api/feedback/analytics").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified())
+				.andExpect(sql().noStatements());
+	}
+
+	@Test
+	void newFeedbackChangesAnalyticsEtag() throws Exception {
+		String etag = mockMvc.perform(get("/api/feedback/analytics"))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		mockMvc.perform(post("/api/feedback")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("""
+								{"name":"Ramesh","email":"ramesh@example.com","rating":4,
+								 "category":"Crop","message":"Soybean advice was helpful"}
+								"""))
+				.andExpect(status().isOk());
+
+		String newEtag = mockMvc.perform(get("/api/feedback/analytics").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		assertNotEquals(etag, newEtag);
+	}
+
+	@Test
+	void writeInTheSameSecondInvalidatesIfModifiedSince() throws Exception {
+		submitFeedback();
+		String lastModified = mockMvc.perform(get("/api/feedback/analytics"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+		assertNotNull(lastModified);
+
+		// Usually lands in the same second as the response above
+		submitFeedback();
+
+		mockMvc.perform(get("/api/feedback/analytics").header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+				.andExpect(status().isOk());
+	}
+
+	private void submitFeedback() throws Exception {
+		mockMvc.perform(post("/api/feedback")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("""
+								{"name":"Ramesh","email":"ramesh@example.com","rating":4,
+								 "category":"Crop","message":"Soybean advice was helpful"}
+								"""))
+				.andExpect(status().isOk());
+	}
+}
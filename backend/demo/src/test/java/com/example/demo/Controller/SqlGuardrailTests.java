@@ -0,0 +1,117 @@
+package com.example.demo.Controller;
+
+import com.example.demo.Entity.Feedback;
+import com.example.demo.UserRepository.FeedBackRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.example.demo.Config.SqlResultMatchers.sql;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Per-endpoint SQL budgets. When one of these fails, look at the new queries before raising the limit.
+ */
+@SpringBootTest(properties = "app.ratelimit.enabled=false")
+@AutoConfigureMockMvc
+class SqlGuardrailTests {
+
+	private static final int ANALYTICS_ROWS = 50;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private FeedBackRepository feedbackRepository;
+
+	private String email;
+
+	@BeforeEach
+	void signUp() throws Exception {
+		email = "sunita-" + UUID.randomUUID() + "@example.com";
+		// Signup checks the email, then save() merges the manually assigned id: select, select, insert
+		mockMvc.perform(post("/api/farmer/signup")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("""
+								{"name":"Sunita","email":"%s","password":"secret","location":"Indore",
+								 "joinedDate":"2024-07-15","phoneNumber":"9876501234","farmSize":"2 acres"}
+								""".formatted(email)))
+				.andExpect(status().isOk())
+				.andExpect(sql().maxStatements(3));
+	}
+
+	@Test
+	void dashboardIssuesOneQuery() throws Exception {
+		mockMvc.perform(get("/api/farmer/dashboard").param("email", email))
+				.andExpect(status().isOk())
+				.andExpect(sql().maxStatements(1))
+				.andExpect(sql().maxRowsFetched(1));
+	}
+
+	@Test
+	void loginIssuesOneQuery() throws Exception {
+		mockMvc.perform(post("/api/farmer/login")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("""
+								{"email":"%s","password":"secret"}
+								""".formatted(email)))
+				.andExpect(status().isOk())
+				.andExpect(sql().maxStatements(1));
+	}
+
+	@Test
+	void feedbackSubmitAndSearch() throws Exception {
+		mockMvc.perform(post("/api/feedback")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("""
+								{"name":"Sunita","email":"%s","rating":2,
+								 "category":"Disease","message":"Whitefly on cotton after the rain"}
+								""".formatted(email)))
+				.andExpect(status().isOk())
+				.andExpect(sql().maxStatements(2));
+
+		// The index finds the ids, one query loads the page
+		mockMvc.perform(get("/api/feedback/search").param("q", "whitefly"))
+				.andExpect(status().isOk())
+				.andExpect(sql().maxStatements(1));
+	}
+
+	@Test
+	void analyticsStaysWithinBudget() throws Exception {
+		List<Feedback> seeded = new ArrayList<>();
+		for (int i = 0; i < ANALYTICS_ROWS; i++) {
+			Feedback feedback = new Feedback();
+			feedback.setId(UUID.randomUUID().toString());
+			feedback.setName("Farmer " + i);
+			feedback.setEmail(email);
+			feedback.setRating(1 + i % 5);
+			feedback.setCategory("Crop");
+			feedback.setMessage("Seeded feedback " + i);
+			feedback.setCreatedAt(LocalDateTime.of(2025, 11, 1, 10, 0).minusDays(i));
+			seeded.add(feedback);
+		}
+		feedbackRepository.saveAll(seeded);
+
+		// getFeedbackStats: counts per rating, counts per weekday, latest five, farmer count.
+		// Rows are bounded by 5 ratings + 7 weekdays + 5 latest + 1 count, whatever the table holds.
+		mockMvc.perform(get("/api/feedback/analytics"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.totalFeedback").value(greaterThanOrEqualTo(ANALYTICS_ROWS)))
+				.andExpect(jsonPath("$.trendData.length()").value(7))
+				.andExpect(sql().maxStatements(4))
+				.andExpect(sql().maxRowsFetched(18));
+	}
+}
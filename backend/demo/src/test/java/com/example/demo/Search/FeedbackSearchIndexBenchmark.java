@@ -0,0 +1,89 @@
+package com.example.demo.Search;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Query latency and index memory for a synthetic corpus. Skipped in normal builds, run with
+ * {@code mvn test -Dtest=FeedbackSearchIndexBenchmark -Dbenchmark=true [-Dbenchmark.docs=1000000]}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class FeedbackSearchIndexBenchmark {
+
+	private static final String[] WORDS = {
+			"wheat", "rice", "cotton", "mustard", "maize", "aphid", "whitefly", "bollworm", "rust", "blight",
+			"yield", "rain", "irrigation", "fertilizer", "urea", "seed", "price", "mandi", "soil", "app",
+			"गेहूं", "धान", "कपास", "सरसों", "कीट", "बारिश", "खाद", "बीज", "फसल", "मिट्टी"
+	};
+	private static final String[] CATEGORIES = {"Crop", "Disease", "Weather", "App", "Other"};
+	private static final String[] QUERIES = {"aphid", "wheat rust", "धान कीट", "cotton bollworm whitefly", "मिट्टी खाद"};
+
+	@Test
+	void queryLatencyAndMemory() {
+		int docs = Integer.getInteger("benchmark.docs", 1_000_000);
+		Random random = new Random(42);
+		LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+		long heapBefore = usedHeap();
+		FeedbackSearchIndex index = new FeedbackSearchIndex();
+		long buildStart = System.nanoTime();
+		for (int i = 0; i < docs; i++) {
+			StringBuilder message = new StringBuilder();
+			int words = 10 + random.nextInt(60);
+			for (int w = 0; w < words; w++) {
+				// Skewed towards the first words, like real crop names
+				int rank = (int) Math.min(WORDS.length - 1, Math.abs(random.nextGaussian()) * 8);
+				message.append(WORDS[rank]).append(random.nextInt(20) == 0 ? "" + random.nextInt(5000) : "").append(' ');
+			}
+			index.add(FeedbackSearchIndexTests.feedback(
+					Integer.toString(i), CATEGORIES[random.nextInt(CATEGORIES.length)], 1 + random.nextInt(5),
+					start.plusMinutes(i), message.toString()));
+		}
+		long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+		long heapAfter = usedHeap();
+
+		FeedbackSearchIndex.Filter filter = new FeedbackSearchIndex.Filter(
+				"Disease", null, 3, start.plusDays(30), null);
+		for (int i = 0; i < 200; i++) {
+			index.search(QUERIES[i % QUERIES.length], i % 2 == 0 ? FeedbackSearchIndex.Filter.NONE : filter, 0, 20);
+		}
+
+		int runs = 1000;
+		long[] latencies = new long[runs];
+		for (int i = 0; i < runs; i++) {
+			long t0 = System.nanoTime();
+			index.search(QUERIES[i % QUERIES.length], i % 2 == 0 ? FeedbackSearchIndex.Filter.NONE : filter, 0, 20);
+			latencies[i] = System.nanoTime() - t0;
+		}
+		Arrays.sort(latencies);
+
+		double perMillion = 1_000_000.0 / docs;
+		System.out.printf("docs=%d build=%dms%n", docs, buildMillis);
+		System.out.printf("index memory: estimated=%.1fMB heap-delta=%.1fMB (per million messages: %.1fMB / %.1fMB)%n",
+				mb(index.estimatedBytes()), mb(heapAfter - heapBefore),
+				mb(index.estimatedBytes()) * perMillion, mb(heapAfter - heapBefore) * perMillion);
+		System.out.printf("query latency: p50=%.2fms p90=%.2fms p99=%.2fms max=%.2fms%n",
+				ms(latencies[runs / 2]), ms(latencies[runs * 9 / 10]), ms(latencies[runs * 99 / 100]),
+				ms(latencies[runs - 1]));
+	}
+
+	private static long usedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	private static double mb(long bytes) {
+		return bytes / (1024.0 * 1024.0);
+	}
+
+	private static double ms(long nanos) {
+		return nanos / 1_000_000.0;
+	}
+}
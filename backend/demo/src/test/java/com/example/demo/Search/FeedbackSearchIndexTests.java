@@ -0,0 +1,93 @@
+package com.example.demo.Search;
+
+import com.example.demo.Entity.Feedback;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FeedbackSearchIndexTests {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2025, 11, 1, 10, 0);
+
+	@Test
+	void tokenizesHindiAndEnglish() {
+		assertEquals(List.of("गेहूं", "फसल", "aphid", "attack"),
+				FeedbackTokenizer.tokenize("गेहूं की फसल में Aphid attack!"));
+	}
+
+	@Test
+	void ranksMessagesByRelevance() {
+		FeedbackSearchIndex index = new FeedbackSearchIndex();
+		index.add(feedback("1", "Crop", 4, NOW, "Wheat yield was good this season"));
+		index.add(feedback("2", "Crop", 2, NOW, "Aphid on wheat, aphid on mustard, aphid everywhere"));
+		index.add(feedback("3", "App", 5, NOW, "The app is easy to use"));
+
+		FeedbackSearchIndex.Result result = index.search("aphid wheat", FeedbackSearchIndex.Filter.NONE, 0, 10);
+
+		assertEquals(2, result.total());
+		assertEquals("2", result.hits().get(0).feedbackId());
+		assertEquals("1", result.hits().get(1).feedbackId());
+	}
+
+	@Test
+	void appliesFiltersAndPaging() {
+		FeedbackSearchIndex index = new FeedbackSearchIndex();
+		index.add(feedback("1", "Crop", 1, NOW.minusDays(10), "धान में कीट"));
+		index.add(feedback("2", "crop", 2, NOW, "धान में कीट लगे"));
+		index.add(feedback("3", "Weather", 2, NOW, "धान की बुवाई"));
+		index.add(feedback("4", "Crop", 5, NOW, "धान बहुत अच्छा"));
+
+		FeedbackSearchIndex.Filter filter = new FeedbackSearchIndex.Filter(
+				"CROP", null, 3, NOW.minusDays(1), null);
+		FeedbackSearchIndex.Result result = index.search("धान", filter, 0, 10);
+		assertEquals(1, result.total());
+		assertEquals("2", result.hits().get(0).feedbackId());
+
+		FeedbackSearchIndex.Result secondPage = index.search("धान", FeedbackSearchIndex.Filter.NONE, 1, 3);
+		assertEquals(4, secondPage.total());
+		assertEquals(1, secondPage.hits().size());
+	}
+
+	@Test
+	void scoresDocsMatchingSeveralTermsOnce() {
+		FeedbackSearchIndex index = new FeedbackSearchIndex();
+		for (int i = 0; i < 5000; i++) {
+			index.add(feedback(String.valueOf(i), "Crop", 3, NOW, i % 2 == 0 ? "pest on cotton" : "pest on tomato"));
+		}
+		index.add(feedback("both", "Crop", 3, NOW, "cotton pest, cotton pest"));
+
+		FeedbackSearchIndex.Result result = index.search("cotton pest", FeedbackSearchIndex.Filter.NONE, 0, 1);
+
+		assertEquals(5001, result.total());
+		assertEquals("both", result.hits().get(0).feedbackId());
+	}
+
+	@Test
+	void rebuildKeepsFeedbackSavedMeanwhile() {
+		FeedbackSearchIndex index = new FeedbackSearchIndex();
+		index.rebuild(sink -> {
+			sink.accept(feedback("1", "Crop", 3, NOW, "pest on cotton"));
+			index.add(feedback("2", "Crop", 3, NOW, "pest on tomato"));
+		});
+
+		assertEquals(2, index.size());
+		assertEquals(2, index.search("pest", FeedbackSearchIndex.Filter.NONE, 0, 10).total());
+		assertTrue(index.estimatedBytes() > 0);
+	}
+
+	static Feedback feedback(String id, String category, int rating, LocalDateTime createdAt, String message) {
+		Feedback feedback = new Feedback();
+		feedback.setId(id);
+		feedback.setName("Farmer " + id);
+		feedback.setEmail("farmer" + id + "@example.com");
+		feedback.setCategory(category);
+		feedback.setRating(rating);
+		feedback.setCreatedAt(createdAt);
+		feedback.setMessage(message);
+		return feedback;
+	}
+}
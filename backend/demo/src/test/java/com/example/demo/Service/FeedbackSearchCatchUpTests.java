@@ -0,0 +1,64 @@
+package com.example.demo.Service;
+
+import com.example.demo.Entity.Feedback;
+import com.example.demo.Search.FeedbackSearchIndex;
+import com.example.demo.UserRepository.FeedBackRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+@SpringBootTest
+class FeedbackSearchCatchUpTests {
+
+	@Autowired
+	private FeedbackServiceImpl feedbackService;
+
+	@Autowired
+	private FeedBackRepository feedbackRepository;
+
+	@Autowired
+	private FeedbackSearchIndex searchIndex;
+
+	@Autowired
+	private ResourceVersions resourceVersions;
+
+	@Test
+	void picksUpFeedbackSavedByOtherInstances() {
+		String word = "catchup" + UUID.randomUUID().toString().replace("-", "");
+		LocalDateTime now = LocalDateTime.now();
+		// Saved elsewhere: one after everything indexed so far, one stamped a little behind it
+		feedbackRepository.save(feedback(now, "Leaf curl " + word));
+		feedbackService.catchUpSearchIndex();
+		feedbackRepository.save(feedback(now.minusSeconds(5), "Stem borer " + word));
+
+		String etag = resourceVersions.validators(ResourceVersions.Resource.FEEDBACK).etag();
+		feedbackService.catchUpSearchIndex();
+
+		assertEquals(2, searchIndex.search(word, FeedbackSearchIndex.Filter.NONE, 0, 10).total());
+		assertNotEquals(etag, resourceVersions.validators(ResourceVersions.Resource.FEEDBACK).etag());
+
+		// Nothing new: nothing added twice and the ETag stays put
+		etag = resourceVersions.validators(ResourceVersions.Resource.FEEDBACK).etag();
+		feedbackService.catchUpSearchIndex();
+		assertEquals(2, searchIndex.search(word, FeedbackSearchIndex.Filter.NONE, 0, 10).total());
+		assertEquals(etag, resourceVersions.validators(ResourceVersions.Resource.FEEDBACK).etag());
+	}
+
+	private static Feedback feedback(LocalDateTime createdAt, String message) {
+		Feedback feedback = new Feedback();
+		feedback.setId(UUID.randomUUID().toString());
+		feedback.setName("Kiran");
+		feedback.setEmail("kiran@example.com");
+		feedback.setRating(2);
+		feedback.setCategory("Disease");
+		feedback.setMessage(message);
+		feedback.setCreatedAt(createdAt);
+		return feedback;
+	}
+}
@@ -0,0 +1,79 @@
+package com.example.demo.UserRepository;
+
+import com.example.demo.Entity.Feedback;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest(showSql = false)
+class FeedBackRepositoryTests {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2025, 11, 1, 10, 0);
+
+	@Autowired
+	private FeedBackRepository feedbackRepository;
+
+	@Test
+	void keysetScanVisitsEveryRowOnceInCreationOrder() {
+		// Several rows share a timestamp, so the id must break ties between batches
+		feedbackRepository.saveAll(List.of(
+				feedback("c", NOW),
+				feedback("a", NOW),
+				feedback("e", NOW.minusMinutes(1)),
+				feedback("b", NOW),
+				feedback("d", NOW.plusMinutes(1))));
+
+		List<String> ids = new ArrayList<>();
+		List<Feedback> batch = feedbackRepository.findByOrderByCreatedAtAscIdAsc(Limit.of(2));
+		while (!batch.isEmpty()) {
+			batch.forEach(f -> ids.add(f.getId()));
+			Feedback last = batch.get(batch.size() - 1);
+			batch = feedbackRepository.findAfter(last.getCreatedAt(), last.getId(), Limit.of(2));
+		}
+
+		assertEquals(List.of("e", "a", "b", "c", "d"), ids);
+	}
+
+	@Test
+	void aggregatesByRatingAndDayOfWeek() {
+		// 2025-11-03 is a Monday
+		LocalDateTime monday = LocalDateTime.of(2025, 11, 3, 9, 0);
+		feedbackRepository.saveAll(List.of(
+				feedback("a", monday, 5),
+				feedback("b", monday.plusHours(8), 3),
+				feedback("c", monday.minusDays(1), 5)));
+
+		Map<Integer, Long> byRating = feedbackRepository.countByRating().stream()
+				.collect(Collectors.toMap(FeedBackRepository.RatingCount::getRating, FeedBackRepository.RatingCount::getCount));
+		assertEquals(Map.of(5, 2L, 3, 1L), byRating);
+
+		Map<Integer, Long> byDay = feedbackRepository.countByDayOfWeek().stream()
+				.collect(Collectors.toMap(FeedBackRepository.DayOfWeekCount::getDayOfWeek, FeedBackRepository.DayOfWeekCount::getCount));
+		assertEquals(Map.of(2, 2L, 1, 1L), byDay);
+	}
+
+	private static Feedback feedback(String id, LocalDateTime createdAt) {
+		return feedback(id, createdAt, 3);
+	}
+
+	private static Feedback feedback(String id, LocalDateTime createdAt, int rating) {
+		Feedback feedback = new Feedback();
+		feedback.setId(id);
+		feedback.setName("Farmer " + id);
+		feedback.setEmail("farmer" + id + "@example.com");
+		feedback.setCategory("Crop");
+		feedback.setRating(rating);
+		feedback.setCreatedAt(createdAt);
+		feedback.setMessage("message " + id);
+		return feedback;
+	}
+}